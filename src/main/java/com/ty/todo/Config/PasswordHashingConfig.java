@@ -0,0 +1,66 @@
+package com.ty.todo.Config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@Configuration
+public class PasswordHashingConfig {
+    private static final Logger log = LoggerFactory.getLogger(PasswordHashingConfig.class);
+
+    @Bean
+    public PasswordEncoder passwordEncoder(@Value("${app.security.bcrypt.target-millis:75}") long targetMillis,
+                                           @Value("${app.security.bcrypt.min-strength:10}") int minStrength,
+                                           @Value("${app.security.bcrypt.max-strength:14}") int maxStrength) {
+        int strength = calibrateStrength(targetMillis, minStrength, maxStrength);
+        log.info("Using bcrypt strength {} (target {} ms per hash)", strength, targetMillis);
+        return new BCryptPasswordEncoder(strength);
+    }
+
+    // Bcrypt verification is deliberately slow, so it gets its own small pool
+    // instead of running on the Tomcat request threads
+    @Bean
+    public ThreadPoolTaskExecutor loginExecutor(@Value("${app.login.pool-size:0}") int poolSize,
+                                                @Value("${app.login.queue-capacity:64}") int queueCapacity) {
+        // Default to half the cores so a login peak cannot take all the CPU away from page rendering
+        int threads = poolSize > 0 ? poolSize : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("login-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    /**
+     * Picks the highest bcrypt strength whose hash time on this host stays
+     * close to the target, within [minStrength, maxStrength].
+     */
+    public static int calibrateStrength(long targetMillis, int minStrength, int maxStrength) {
+        String sample = "calibration-password";
+
+        // Warm up the JIT so the first measurement is not inflated
+        new BCryptPasswordEncoder(4).encode(sample);
+
+        int strength = minStrength;
+        while (strength < maxStrength) {
+            long start = System.nanoTime();
+            new BCryptPasswordEncoder(strength).encode(sample);
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            // Each extra strength step doubles the work, so stop if the next one would overshoot the target
+            if (elapsedMillis * 2 > targetMillis * 3 / 2) {
+                break;
+            }
+            strength++;
+        }
+        return strength;
+    }
+}
@@ -0,0 +1,175 @@
+package com.ty.todo.Controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ty.todo.Dto.TaskDto;
+import com.ty.todo.Dto.TaskRequest;
+import com.ty.todo.Model.Task;
+import com.ty.todo.Model.User;
+import com.ty.todo.Service.TaskService;
+import com.ty.todo.Service.UserService;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.http.HttpSession;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/v1/tasks")
+public class TaskApiController {
+    // Field names accepted by ?fields=, in the order they are written
+    private static final Map<String, Function<TaskDto, Object>> FIELDS = new LinkedHashMap<>();
+
+    static {
+        FIELDS.put("id", TaskDto::id);
+        FIELDS.put("title", TaskDto::title);
+        FIELDS.put("description", TaskDto::description);
+        FIELDS.put("completed", TaskDto::completed);
+        FIELDS.put("dueDate", TaskDto::dueDate);
+        FIELDS.put("reminderTime", TaskDto::reminderTime);
+        FIELDS.put("createdAt", TaskDto::createdAt);
+        FIELDS.put("updatedAt", TaskDto::updatedAt);
+    }
+
+    private final TaskService taskService;
+    private final UserService userService;
+    private final ObjectMapper objectMapper;
+
+    public TaskApiController(TaskService taskService, UserService userService, ObjectMapper objectMapper) {
+        this.taskService = taskService;
+        this.userService = userService;
+        this.objectMapper = objectMapper;
+    }
+
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> listTasks(@RequestParam(required = false) String fields,
+                                                           HttpSession session) {
+        Long userId = requireUser(session).getId();
+        Set<String> selected = parseFields(fields);
+
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator gen = objectMapper.createGenerator(out)) {
+                gen.writeStartArray();
+                taskService.forEachTaskByUser(userId, task -> {
+                    try {
+                        gen.writeObject(selectFields(task, selected));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                gen.writeEndArray();
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    @GetMapping("/{id}")
+    public Map<String, Object> getTask(@PathVariable Long id,
+                                       @RequestParam(required = false) String fields,
+                                       HttpSession session) {
+        User user = requireUser(session);
+        Set<String> selected = parseFields(fields);
+
+        return selectFields(TaskDto.from(findOwnedTask(id, user)), selected);
+    }
+
+    @PostMapping
+    public ResponseEntity<TaskDto> createTask(@Valid @RequestBody TaskRequest request, HttpSession session) {
+        User user = requireUser(session);
+
+        Task task = request.toTask();
+        task.setUser(userService.findById(user.getId()));
+        Task savedTask = taskService.createTask(task);
+
+        return ResponseEntity.created(URI.create("/api/v1/tasks/" + savedTask.getId()))
+                .body(TaskDto.from(savedTask));
+    }
+
+    @PutMapping("/{id}")
+    public TaskDto updateTask(@PathVariable Long id, @Valid @RequestBody TaskRequest request, HttpSession session) {
+        User user = requireUser(session);
+        findOwnedTask(id, user);
+
+        return TaskDto.from(taskService.updateTask(id, request.toTask()));
+    }
+
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void deleteTask(@PathVariable Long id, HttpSession session) {
+        User user = requireUser(session);
+        findOwnedTask(id, user);
+
+        taskService.deleteTask(id);
+    }
+
+    private User requireUser(HttpSession session) {
+        User user = (User) session.getAttribute("user");
+        if (user == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Not logged in");
+        }
+        return user;
+    }
+
+    private Task findOwnedTask(Long id, User user) {
+        try {
+            Task task = taskService.getTaskById(id);
+            // Report other users' tasks as missing rather than leaking that they exist
+            if (!task.getUser().getId().equals(user.getId())) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Task not found with id: " + id);
+            }
+            return task;
+        } catch (EntityNotFoundException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+        }
+    }
+
+    private Set<String> parseFields(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return FIELDS.keySet();
+        }
+
+        Set<String> selected = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .collect(Collectors.toSet());
+
+        if (selected.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "No fields selected, expected some of " + FIELDS.keySet());
+        }
+        for (String field : selected) {
+            if (!FIELDS.containsKey(field)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Unknown field '" + field + "', expected one of " + FIELDS.keySet());
+            }
+        }
+        return selected;
+    }
+
+    private Map<String, Object> selectFields(TaskDto task, Set<String> selected) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (Map.Entry<String, Function<TaskDto, Object>> field : FIELDS.entrySet()) {
+            if (selected.contains(field.getKey())) {
+                result.put(field.getKey(), field.getValue().apply(task));
+            }
+        }
+        return result;
+    }
+}
@@ -1,5 +1,6 @@
 package com.ty.todo.Controller;
 
+import com.ty.todo.Dto.TaskDto;
 import com.ty.todo.Model.Task;
 import com.ty.todo.Model.User;
 import com.ty.todo.Service.TaskService;
@@ -286,8 +287,10 @@ public class TaskController {
     
     @GetMapping("/reminders/due")
     @ResponseBody
-    public List<Task> getDueReminders() {
-        return taskService.getDueReminders();
+    public List<TaskDto> getDueReminders() {
+        return taskService.getDueReminders().stream()
+                .map(TaskDto::from)
+                .toList();
     }
 
    
@@ -0,0 +1,28 @@
+package com.ty.todo.Dto;
+
+import com.ty.todo.Model.Task;
+
+import java.time.LocalDateTime;
+
+// Read-only view of a Task for JSON responses, so the lazy User proxy and
+// Hibernate internals never reach Jackson
+public record TaskDto(Long id,
+                      String title,
+                      String description,
+                      boolean completed,
+                      LocalDateTime dueDate,
+                      LocalDateTime reminderTime,
+                      LocalDateTime createdAt,
+                      LocalDateTime updatedAt) {
+
+    public static TaskDto from(Task task) {
+        return new TaskDto(task.getId(),
+                task.getTitle(),
+                task.getDescription(),
+                task.isCompleted(),
+                task.getDueDate(),
+                task.getReminderTime(),
+                task.getCreatedAt(),
+                task.getUpdatedAt());
+    }
+}
@@ -0,0 +1,23 @@
+package com.ty.todo.Dto;
+
+import com.ty.todo.Model.Task;
+import jakarta.validation.constraints.NotBlank;
+
+import java.time.LocalDateTime;
+
+public record TaskRequest(@NotBlank String title,
+                          String description,
+                          boolean completed,
+                          LocalDateTime dueDate,
+                          LocalDateTime reminderTime) {
+
+    public Task toTask() {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDescription(description);
+        task.setCompleted(completed);
+        task.setDueDate(dueDate);
+        task.setReminderTime(reminderTime);
+        return task;
+    }
+}
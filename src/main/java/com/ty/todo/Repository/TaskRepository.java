@@ -1,7 +1,9 @@
 package com.ty.todo.Repository;
 
+import com.ty.todo.Dto.TaskDto;
 import com.ty.todo.Model.Task;
 import com.ty.todo.Model.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -27,4 +29,10 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     
     List<Task> findByReminderTimeBeforeAndCompletedFalse(LocalDateTime now);
 
+    // Keyset page: the next tasks older than lastId, newest first, projected straight into DTOs
+    @Query("SELECT new com.ty.todo.Dto.TaskDto(t.id, t.title, t.description, t.completed, t.dueDate, "
+            + "t.reminderTime, t.createdAt, t.updatedAt) "
+            + "FROM Task t WHERE t.user.id = :userId AND t.id < :lastId ORDER BY t.id DESC")
+    List<TaskDto> findPageByUserId(@Param("userId") Long userId, @Param("lastId") Long lastId, Limit limit);
+
 }
\ No newline at end of file
@@ -1,8 +1,10 @@
 package com.ty.todo.Service;
 
+import com.ty.todo.Dto.TaskDto;
 import com.ty.todo.Model.Task;
 import com.ty.todo.Model.User;
 import com.ty.todo.Repository.TaskRepository;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,10 +12,13 @@ import jakarta.persistence.EntityNotFoundException;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Service
 public class TaskService {
 
+    static final int PAGE_SIZE = 500;
+
     private final TaskRepository taskRepository;
 
     public TaskService(TaskRepository taskRepository) {
@@ -59,6 +64,21 @@ public class TaskService {
         return taskRepository.findByUser(user);
     }
     
+    // Reads in keyset pages of DTO projections. Open-in-view keeps the request's
+    // persistence context open for the whole streamed response, but projections are
+    // never managed, so it does not grow with the size of the list.
+    public void forEachTaskByUser(Long userId, Consumer<TaskDto> consumer) {
+        Long lastId = Long.MAX_VALUE;
+        List<TaskDto> page;
+        do {
+            page = taskRepository.findPageByUserId(userId, lastId, Limit.of(PAGE_SIZE));
+            for (TaskDto task : page) {
+                consumer.accept(task);
+                lastId = task.id();
+            }
+        } while (page.size() == PAGE_SIZE);
+    }
+
     public List<Task> getDueReminders() {
         LocalDateTime now = LocalDateTime.now();
         return taskRepository.findByReminderTimeBeforeAndCompletedFalse(now);
@@ -2,14 +2,37 @@ package com.ty.todo.Service;
 
 import com.ty.todo.Model.User;
 import com.ty.todo.Repository.UserRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Pattern;
+
 @Service
 public class UserService {
+    private static final Pattern BCRYPT_HASH = Pattern.compile("\\A\\$2[aby]?\\$\\d\\d\\$[./0-9A-Za-z]{53}");
+
     private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final AsyncTaskExecutor loginExecutor;
+    private final long loginTimeoutMillis;
 
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository,
+                       PasswordEncoder passwordEncoder,
+                       @Qualifier("loginExecutor") AsyncTaskExecutor loginExecutor,
+                       @Value("${app.login.timeout-ms:5000}") long loginTimeoutMillis) {
         this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.loginExecutor = loginExecutor;
+        this.loginTimeoutMillis = loginTimeoutMillis;
     }
 
     public User registerUser(User user) {
@@ -19,17 +42,25 @@ public class UserService {
         if (userRepository.existsByEmail(user.getEmail())) {
             throw new RuntimeException("Email already exists");
         }
+        user.setPassword(hash(user.getPassword()));
         return userRepository.save(user);
     }
 
     public User login(String username, String password) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new RuntimeException("User not found"));
-        
-        if (!user.getPassword().equals(password)) {
+
+        PasswordCheck check = verify(user.getPassword(), password);
+        if (!check.matches()) {
             throw new RuntimeException("Invalid password");
         }
-        
+
+        // Migrate plaintext rows and hashes made with an older strength
+        if (check.upgradedHash() != null) {
+            user.setPassword(check.upgradedHash());
+            user = userRepository.save(user);
+        }
+
         return user;
     }
 
@@ -46,4 +77,53 @@ public class UserService {
     public boolean userExists(Long id) {
         return userRepository.existsById(id);
     }
-}
\ No newline at end of file
+
+    private String hash(String rawPassword) {
+        return runOnLoginExecutor(() -> passwordEncoder.encode(rawPassword), "signup");
+    }
+
+    private PasswordCheck verify(String storedPassword, String rawPassword) {
+        return runOnLoginExecutor(() -> {
+            if (!isHashed(storedPassword)) {
+                boolean matches = rawPassword.equals(storedPassword);
+                return new PasswordCheck(matches, matches ? passwordEncoder.encode(rawPassword) : null);
+            }
+            if (!passwordEncoder.matches(rawPassword, storedPassword)) {
+                return new PasswordCheck(false, null);
+            }
+            String upgradedHash = passwordEncoder.upgradeEncoding(storedPassword)
+                    ? passwordEncoder.encode(rawPassword) : null;
+            return new PasswordCheck(true, upgradedHash);
+        }, "login");
+    }
+
+    // operation is "login" or "signup" and only shapes the error messages shown to the user
+    private <T> T runOnLoginExecutor(Callable<T> work, String operation) {
+        String title = Character.toUpperCase(operation.charAt(0)) + operation.substring(1);
+
+        Future<T> future;
+        try {
+            future = loginExecutor.submit(work);
+        } catch (TaskRejectedException e) {
+            throw new RuntimeException("Too many " + operation + "s in progress, please try again");
+        }
+
+        try {
+            return future.get(loginTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new RuntimeException(title + " is taking too long, please try again");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(title + " was interrupted, please try again");
+        } catch (ExecutionException e) {
+            throw new RuntimeException(title + " failed: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private static boolean isHashed(String storedPassword) {
+        return storedPassword != null && BCRYPT_HASH.matcher(storedPassword).matches();
+    }
+
+    private record PasswordCheck(boolean matches, String upgradedHash) {}
+}
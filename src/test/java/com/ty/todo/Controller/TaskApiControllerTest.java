@@ -0,0 +1,183 @@
+package com.ty.todo.Controller;
+
+import com.ty.todo.Dto.TaskDto;
+import com.ty.todo.Model.Task;
+import com.ty.todo.Model.User;
+import com.ty.todo.Service.TaskService;
+import com.ty.todo.Service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(TaskApiController.class)
+class TaskApiControllerTest {
+    private static final String TASK_JSON = "{\"title\": \"Updated\", \"completed\": false}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private TaskService taskService;
+
+    @MockitoBean
+    private UserService userService;
+
+    private MockHttpSession session;
+
+    @BeforeEach
+    void setUp() {
+        session = new MockHttpSession();
+        session.setAttribute("user", user(1L));
+    }
+
+    @Test
+    void listRequiresSession() throws Exception {
+        mockMvc.perform(get("/api/v1/tasks"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void getRequiresSession() throws Exception {
+        mockMvc.perform(get("/api/v1/tasks/5"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void getOtherUsersTaskIsNotFound() throws Exception {
+        when(taskService.getTaskById(5L)).thenReturn(task(5L, user(2L)));
+
+        mockMvc.perform(get("/api/v1/tasks/5").session(session))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void updateOtherUsersTaskIsNotFound() throws Exception {
+        when(taskService.getTaskById(5L)).thenReturn(task(5L, user(2L)));
+
+        mockMvc.perform(put("/api/v1/tasks/5").session(session)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(TASK_JSON))
+                .andExpect(status().isNotFound());
+
+        verify(taskService, never()).updateTask(anyLong(), any(Task.class));
+    }
+
+    @Test
+    void deleteOtherUsersTaskIsNotFound() throws Exception {
+        when(taskService.getTaskById(5L)).thenReturn(task(5L, user(2L)));
+
+        mockMvc.perform(delete("/api/v1/tasks/5").session(session))
+                .andExpect(status().isNotFound());
+
+        verify(taskService, never()).deleteTask(anyLong());
+    }
+
+    @Test
+    void unknownFieldIsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/tasks").session(session).param("fields", "title,password"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void emptyFieldSelectionIsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/tasks").session(session).param("fields", " , "))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getReturnsOnlySelectedFields() throws Exception {
+        when(taskService.getTaskById(5L)).thenReturn(task(5L, user(1L)));
+
+        mockMvc.perform(get("/api/v1/tasks/5").session(session).param("fields", "id,title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(5))
+                .andExpect(jsonPath("$.title").value("Task 5"))
+                .andExpect(jsonPath("$.description").doesNotExist())
+                .andExpect(jsonPath("$.completed").doesNotExist());
+    }
+
+    @Test
+    void listStreamsOnlySelectedFields() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<TaskDto> consumer = invocation.getArgument(1);
+            consumer.accept(TaskDto.from(task(7L, user(1L))));
+            consumer.accept(TaskDto.from(task(6L, user(1L))));
+            return null;
+        }).when(taskService).forEachTaskByUser(eq(1L), any());
+
+        MvcResult result = mockMvc.perform(get("/api/v1/tasks").session(session).param("fields", "title"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].title").value("Task 7"))
+                .andExpect(jsonPath("$[0].id").doesNotExist())
+                .andExpect(jsonPath("$[1].title").value("Task 6"));
+    }
+
+    @Test
+    void createAssignsSessionUserAndReturnsLocation() throws Exception {
+        when(userService.findById(1L)).thenReturn(user(1L));
+        when(taskService.createTask(any(Task.class))).thenAnswer(invocation -> {
+            Task task = invocation.getArgument(0);
+            task.setId(42L);
+            return task;
+        });
+
+        mockMvc.perform(post("/api/v1/tasks").session(session)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"New task\", \"dueDate\": \"2026-01-01T09:00:00\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Location", "/api/v1/tasks/42"))
+                .andExpect(jsonPath("$.id").value(42))
+                .andExpect(jsonPath("$.title").value("New task"));
+
+        ArgumentCaptor<Task> saved = ArgumentCaptor.forClass(Task.class);
+        verify(taskService).createTask(saved.capture());
+        assertEquals(1L, saved.getValue().getUser().getId());
+        assertEquals(LocalDateTime.of(2026, 1, 1, 9, 0), saved.getValue().getDueDate());
+    }
+
+    private static User user(Long id) {
+        User user = new User("user" + id, "user" + id + "@example.com", "secret");
+        user.setId(id);
+        return user;
+    }
+
+    private static Task task(Long id, User owner) {
+        Task task = new Task("Task " + id, "Description " + id,
+                LocalDateTime.of(2026, 1, 1, 9, 0), LocalDateTime.of(2026, 1, 1, 8, 0), owner);
+        task.setId(id);
+        return task;
+    }
+}
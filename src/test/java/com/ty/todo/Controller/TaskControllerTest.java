@@ -0,0 +1,47 @@
+package com.ty.todo.Controller;
+
+import com.ty.todo.Model.Task;
+import com.ty.todo.Model.User;
+import com.ty.todo.Service.TaskService;
+import com.ty.todo.Service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(TaskController.class)
+class TaskControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private TaskService taskService;
+
+    @MockitoBean
+    private UserService userService;
+
+    @Test
+    void dueRemindersDoNotExposeUser() throws Exception {
+        User owner = new User("user1", "user1@example.com", "secret");
+        owner.setId(1L);
+        Task task = new Task("Task 5", "Description 5",
+                LocalDateTime.of(2026, 1, 1, 9, 0), LocalDateTime.of(2026, 1, 1, 8, 0), owner);
+        task.setId(5L);
+        when(taskService.getDueReminders()).thenReturn(List.of(task));
+
+        mockMvc.perform(get("/reminders/due"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("Task 5"))
+                .andExpect(jsonPath("$[0].user").doesNotExist())
+                .andExpect(jsonPath("$[0].password").doesNotExist());
+    }
+}
@@ -0,0 +1,104 @@
+package com.ty.todo.Service;
+
+import com.ty.todo.Config.PasswordHashingConfig;
+import com.ty.todo.Model.User;
+import com.ty.todo.Repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.support.ResourcePropertySource;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Not picked up by the default surefire includes; run with
+// mvn test -Dtest=LoginThroughputBenchmark
+class LoginThroughputBenchmark {
+    private static final int[] CONCURRENCY_LEVELS = {8, 32, 128};
+    private static final int LOGINS_PER_CLIENT = 4;
+
+    @Test
+    void loginThroughput() throws Exception {
+        StandardEnvironment env = new StandardEnvironment();
+        env.getPropertySources().addLast(new ResourcePropertySource("classpath:application.properties"));
+        int poolSize = env.getRequiredProperty("app.login.pool-size", Integer.class);
+        int queueCapacity = env.getRequiredProperty("app.login.queue-capacity", Integer.class);
+
+        int strength = PasswordHashingConfig.calibrateStrength(
+                env.getRequiredProperty("app.security.bcrypt.target-millis", Long.class),
+                env.getRequiredProperty("app.security.bcrypt.min-strength", Integer.class),
+                env.getRequiredProperty("app.security.bcrypt.max-strength", Integer.class));
+        PasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+
+        User user = new User("bench", "bench@example.com", encoder.encode("secret"));
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findByUsername(anyString())).thenReturn(Optional.of(user));
+
+        System.out.println("bcrypt strength " + strength + ", "
+                + Runtime.getRuntime().availableProcessors() + " CPUs");
+
+        for (int clients : CONCURRENCY_LEVELS) {
+            ThreadPoolTaskExecutor loginExecutor = new PasswordHashingConfig().loginExecutor(poolSize, queueCapacity);
+            loginExecutor.initialize();
+
+            UserService userService = new UserService(userRepository, encoder, loginExecutor, 30_000);
+            ExecutorService requestThreads = Executors.newFixedThreadPool(clients);
+            try {
+                runRound(userService, requestThreads, clients);
+            } finally {
+                requestThreads.shutdownNow();
+                loginExecutor.shutdown();
+            }
+        }
+    }
+
+    private void runRound(UserService userService, ExecutorService requestThreads, int clients) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<int[]>> results = new ArrayList<>();
+
+        for (int i = 0; i < clients; i++) {
+            results.add(requestThreads.submit(() -> {
+                start.await();
+                int ok = 0;
+                int rejected = 0;
+                for (int n = 0; n < LOGINS_PER_CLIENT; n++) {
+                    try {
+                        userService.login("bench", "secret");
+                        ok++;
+                    } catch (RuntimeException e) {
+                        rejected++;
+                    }
+                }
+                return new int[]{ok, rejected};
+            }));
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+
+        int ok = 0;
+        int rejected = 0;
+        for (Future<int[]> result : results) {
+            int[] counts = result.get();
+            ok += counts[0];
+            rejected += counts[1];
+        }
+        double seconds = (System.nanoTime() - begin) / 1_000_000_000.0;
+
+        System.out.printf("%3d concurrent: %4d ok, %4d rejected, %.2f s, %.1f logins/s%n",
+                clients, ok, rejected, seconds, ok / seconds);
+        assertTrue(ok > 0, "no login succeeded with " + clients + " concurrent clients");
+    }
+}
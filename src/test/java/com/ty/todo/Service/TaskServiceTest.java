@@ -0,0 +1,109 @@
+package com.ty.todo.Service;
+
+import com.ty.todo.Model.Task;
+import com.ty.todo.Model.User;
+import com.ty.todo.Repository.TaskRepository;
+import com.ty.todo.Repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// The main config pins the MySQL dialect; the embedded test database is H2
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import(TaskService.class)
+class TaskServiceTest {
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User alice;
+    private User bob;
+
+    @BeforeEach
+    void setUp() {
+        alice = userRepository.save(new User("alice", "alice@example.com", "secret"));
+        bob = userRepository.save(new User("bob", "bob@example.com", "secret"));
+    }
+
+    @Test
+    void forEachTaskByUserReadsExactMultipleOfPageSize() {
+        List<Long> aliceIds = saveInterleaved(2 * TaskService.PAGE_SIZE);
+
+        List<Long> seen = collectIds(alice);
+
+        assertEquals(expectedOrder(aliceIds), seen);
+    }
+
+    @Test
+    void forEachTaskByUserReadsPartialLastPage() {
+        List<Long> aliceIds = saveInterleaved(TaskService.PAGE_SIZE + 7);
+
+        List<Long> seen = collectIds(alice);
+
+        assertEquals(expectedOrder(aliceIds), seen);
+    }
+
+    @Test
+    void forEachTaskByUserKeepsNewestFirstAcrossPageBoundary() {
+        saveInterleaved(TaskService.PAGE_SIZE + 1);
+
+        List<Long> seen = collectIds(alice);
+
+        for (int i = 1; i < seen.size(); i++) {
+            assertTrue(seen.get(i - 1) > seen.get(i), "ids out of order at position " + i);
+        }
+    }
+
+    @Test
+    void forEachTaskByUserSkipsOtherUsersTasks() {
+        saveInterleaved(TaskService.PAGE_SIZE + 1);
+        List<Long> bobIds = taskRepository.findByUser(bob).stream().map(Task::getId).toList();
+
+        List<Long> seen = collectIds(alice);
+
+        assertTrue(bobIds.size() > 0);
+        assertTrue(seen.stream().noneMatch(bobIds::contains));
+    }
+
+    @Test
+    void forEachTaskByUserWithNoTasksReadsNothing() {
+        assertEquals(List.of(), collectIds(alice));
+    }
+
+    // Saves count tasks for alice with a task for bob after every second one,
+    // so the two users' ids interleave; returns alice's ids
+    private List<Long> saveInterleaved(int count) {
+        List<Long> aliceIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            aliceIds.add(taskRepository.save(new Task("Alice " + i, null, null, null, alice)).getId());
+            if (i % 2 == 0) {
+                taskRepository.save(new Task("Bob " + i, null, null, null, bob));
+            }
+        }
+        return aliceIds;
+    }
+
+    private List<Long> collectIds(User user) {
+        List<Long> ids = new ArrayList<>();
+        taskService.forEachTaskByUser(user.getId(), task -> ids.add(task.id()));
+        return ids;
+    }
+
+    private static List<Long> expectedOrder(List<Long> ids) {
+        return ids.stream().sorted(Comparator.reverseOrder()).toList();
+    }
+}
@@ -0,0 +1,145 @@
+package com.ty.todo.Service;
+
+import com.ty.todo.Model.User;
+import com.ty.todo.Repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserServiceTest {
+    private final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder(5);
+    // Runs the submitted work on the calling thread
+    private final AsyncTaskExecutor syncExecutor = new TaskExecutorAdapter(Runnable::run);
+
+    private UserRepository userRepository;
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        userService = new UserService(userRepository, passwordEncoder, syncExecutor, 5000);
+    }
+
+    @Test
+    void loginMigratesPlaintextPasswordToBcrypt() {
+        User user = givenUser("secret");
+
+        userService.login("alice", "secret");
+
+        verify(userRepository).save(user);
+        assertTrue(user.getPassword().startsWith("$2"));
+        assertTrue(passwordEncoder.matches("secret", user.getPassword()));
+    }
+
+    @Test
+    void loginMigratesPlaintextPasswordThatLooksLikeAHashPrefix() {
+        User user = givenUser("$2secret");
+
+        userService.login("alice", "$2secret");
+
+        assertTrue(passwordEncoder.matches("$2secret", user.getPassword()));
+    }
+
+    @Test
+    void loginRehashesPasswordMadeWithLowerStrength() {
+        String weakHash = new BCryptPasswordEncoder(4).encode("secret");
+        User user = givenUser(weakHash);
+
+        userService.login("alice", "secret");
+
+        verify(userRepository).save(user);
+        assertTrue(user.getPassword().startsWith("$2a$05$"));
+        assertTrue(passwordEncoder.matches("secret", user.getPassword()));
+    }
+
+    @Test
+    void loginKeepsCurrentHashUntouched() {
+        String hash = passwordEncoder.encode("secret");
+        User user = givenUser(hash);
+
+        userService.login("alice", "secret");
+
+        verify(userRepository, never()).save(any(User.class));
+        assertEquals(hash, user.getPassword());
+    }
+
+    @Test
+    void loginRejectsWrongPasswordForPlaintextRow() {
+        User user = givenUser("secret");
+
+        RuntimeException e = assertThrows(RuntimeException.class, () -> userService.login("alice", "wrong"));
+
+        assertEquals("Invalid password", e.getMessage());
+        assertEquals("secret", user.getPassword());
+        verify(userRepository, never()).save(any(User.class));
+    }
+
+    @Test
+    void loginRejectsWrongPasswordForHashedRow() {
+        givenUser(passwordEncoder.encode("secret"));
+
+        RuntimeException e = assertThrows(RuntimeException.class, () -> userService.login("alice", "wrong"));
+
+        assertEquals("Invalid password", e.getMessage());
+        verify(userRepository, never()).save(any(User.class));
+    }
+
+    @Test
+    void loginFailsFastWhenLoginQueueIsFull() {
+        givenUser(passwordEncoder.encode("secret"));
+        AsyncTaskExecutor fullExecutor = mock(AsyncTaskExecutor.class);
+        when(fullExecutor.submit(any(Callable.class))).thenThrow(new TaskRejectedException("queue full"));
+        UserService busyService = new UserService(userRepository, passwordEncoder, fullExecutor, 5000);
+
+        RuntimeException e = assertThrows(RuntimeException.class, () -> busyService.login("alice", "secret"));
+
+        assertEquals("Too many logins in progress, please try again", e.getMessage());
+    }
+
+    @Test
+    void registerUserReportsSignupWhenQueueIsFull() {
+        AsyncTaskExecutor fullExecutor = mock(AsyncTaskExecutor.class);
+        when(fullExecutor.submit(any(Callable.class))).thenThrow(new TaskRejectedException("queue full"));
+        UserService busyService = new UserService(userRepository, passwordEncoder, fullExecutor, 5000);
+        User user = new User("bob", "bob@example.com", "secret");
+
+        RuntimeException e = assertThrows(RuntimeException.class, () -> busyService.registerUser(user));
+
+        assertEquals("Too many signups in progress, please try again", e.getMessage());
+        verify(userRepository, never()).save(any(User.class));
+    }
+
+    @Test
+    void registerUserStoresBcryptHash() {
+        User user = new User("bob", "bob@example.com", "secret");
+        when(userRepository.existsByUsername("bob")).thenReturn(false);
+        when(userRepository.existsByEmail("bob@example.com")).thenReturn(false);
+
+        userService.registerUser(user);
+
+        assertTrue(passwordEncoder.matches("secret", user.getPassword()));
+    }
+
+    private User givenUser(String storedPassword) {
+        User user = new User("alice", "alice@example.com", storedPassword);
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(user));
+        return user;
+    }
+}